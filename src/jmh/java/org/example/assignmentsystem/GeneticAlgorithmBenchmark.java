@@ -0,0 +1,107 @@
+package org.example.assignmentsystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generational and steady-state Genetic Algorithms.
+ * generationalRun uses the default FitnessModel (dissatisfaction only), so it
+ * can be compared with the original single-sum fitness; generationalRunAllObjectives
+ * shows the cost of enabling every fairness objective.
+ * Run with: ./gradlew jmh
+ * The GC profiler's gc.alloc.rate.norm column shows bytes allocated per
+ * operation; steadyStateGeneration should report close to zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneticAlgorithmBenchmark {
+
+    // Same fixed list of services as AssignmentService
+    private static final List<String> SERVICES = List.of(
+            "Reception", "Security", "Food", "Transport", "Cleaning",
+            "Logistics", "Guiding", "Medical", "Registration", "HelpDesk"
+    );
+
+    // 30 fills every service to capacity, the scale the GUI client is used at
+    @Param({"30", "1000", "10000"})
+    private int volunteers;
+
+    private AssignmentService assignmentService;
+    private AssignmentService allObjectivesService;
+    private GeneticAlgorithmService.SteadyStateGeneticAlgorithm steadyState;
+
+    /**
+     * Registers volunteers with 5 random distinct preferences each.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        assignmentService = new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "steady-state", "", 0);
+        FitnessModel allObjectives = new FitnessModel("weighted", 1, 1, 1, 1, List.of("dissatisfaction"), 2, List.of());
+        allObjectivesService = new AssignmentService(Runnable::run, allObjectives, "generational", "", 0);
+        Random random = new Random(42);
+        List<String> services = new ArrayList<>(SERVICES);
+        for (int i = 0; i < volunteers; i++) {
+            Collections.shuffle(services, random);
+            Volunteer volunteer = new Volunteer("Volunteer" + i, new ArrayList<>(services.subList(0, 5)));
+            assignmentService.savePreferences(volunteer);
+            allObjectivesService.savePreferences(volunteer);
+        }
+        steadyState = new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(
+                SERVICES, assignmentService.getVolunteers(), assignmentService);
+    }
+
+    /**
+     * Starts every iteration of the generation benchmark from a fresh population.
+     */
+    @Setup(Level.Iteration)
+    public void resetPopulation() {
+        steadyState.initialize();
+    }
+
+    @Benchmark
+    public Chromosome generationalRun() {
+        return new GeneticAlgorithmService.GeneticAlgorithm(
+                SERVICES, assignmentService.getVolunteers(), assignmentService).run();
+    }
+
+    @Benchmark
+    public Chromosome generationalRunAllObjectives() {
+        return new GeneticAlgorithmService.GeneticAlgorithm(
+                SERVICES, allObjectivesService.getVolunteers(), allObjectivesService).run();
+    }
+
+    @Benchmark
+    public Chromosome steadyStateRun() {
+        return new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(
+                SERVICES, assignmentService.getVolunteers(), assignmentService).run();
+    }
+
+    /**
+     * One generation of the steady-state loop only, without setup or result conversion.
+     */
+    @Benchmark
+    public int steadyStateGeneration() {
+        steadyState.nextGeneration();
+        return steadyState.bestIndex();
+    }
+}
@@ -0,0 +1,286 @@
+package org.example.assignmentsystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test harness for the REST API.
+ * Starts the server jar (or targets an already running server), then hammers
+ * {@code /api/preferences} and {@code /api/assignments} from many concurrent
+ * clients while {@code /api/optimize} is triggered periodically, and reports
+ * p50/p99 latency and throughput per endpoint.
+ *
+ * Run with: ./gradlew loadTest -PvirtualThreads=true
+ * All options are read from {@code loadTest.*} system properties, which the
+ * Gradle task fills from project properties of the same name.
+ */
+public class LoadTest {
+
+    // List of available services, same as the GUI client
+    private static final String[] SERVICES = {
+            "Reception", "Security", "Food", "Transport", "Cleaning",
+            "Logistics", "Guiding", "Medical", "Registration", "HelpDesk"
+    };
+
+    private final String baseUrl = option("baseUrl", "http://localhost:8066");
+    private final int durationSeconds = Integer.parseInt(option("durationSeconds", "30"));
+    private final int warmupSeconds = Integer.parseInt(option("warmupSeconds", "5"));
+    private final int concurrency = Integer.parseInt(option("concurrency", "64"));
+    private final int volunteers = Integer.parseInt(option("volunteers", "2000"));
+    private final long optimizeIntervalMs = Long.parseLong(option("optimizeIntervalMs", "1000"));
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * Entry point used by the Gradle {@code loadTest} task.
+     */
+    public static void main(String[] args) throws Exception {
+        Process server = null;
+        if (Boolean.parseBoolean(option("startServer", "true"))) {
+            server = startServer();
+        }
+        try {
+            new LoadTest().run();
+        } finally {
+            if (server != null) {
+                server.destroy();
+                server.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * Runs warmup and measurement phases and prints the results.
+     */
+    private void run() throws Exception {
+        awaitServer();
+        System.out.printf("Target %s, %d clients, %d volunteers, optimize every %d ms%n",
+                baseUrl, concurrency, volunteers, optimizeIntervalMs);
+
+        // Warmup: same traffic, results discarded
+        runPhase(warmupSeconds);
+        Result[] results = runPhase(durationSeconds);
+
+        System.out.println();
+        System.out.printf("%-22s %9s %7s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            result.print(durationSeconds);
+        }
+    }
+
+    /**
+     * Runs all clients for the given number of seconds.
+     *
+     * @return merged results: preferences, assignments, optimize
+     */
+    private Result[] runPhase(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Result[]> perClient = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Result[] own = newResults();
+                perClient.add(own);
+                executor.execute(() -> clientLoop(deadline, own));
+            }
+
+            // Trigger optimizations periodically, like volunteers pressing the button
+            Result[] optimizer = newResults();
+            perClient.add(optimizer);
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    timed(optimizer[2], post("/api/optimize", BodyPublishers.noBody()));
+                    sleep(optimizeIntervalMs);
+                }
+            });
+        }
+
+        Result[] merged = newResults();
+        for (Result[] results : perClient) {
+            for (int i = 0; i < merged.length; i++) {
+                merged[i].merge(results[i]);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Single client: alternates between submitting preferences and reading assignments.
+     */
+    private void clientLoop(long deadline, Result[] results) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest getAssignments = HttpRequest.newBuilder(URI.create(baseUrl + "/api/assignments"))
+                .GET()
+                .build();
+
+        while (System.nanoTime() < deadline) {
+            if (random.nextBoolean()) {
+                timed(results[0], post("/api/preferences", BodyPublishers.ofString(randomVolunteer(random))));
+            } else {
+                timed(results[1], getAssignments);
+            }
+        }
+    }
+
+    /**
+     * Builds the JSON body of a random volunteer with 5 distinct preferences.
+     */
+    private String randomVolunteer(ThreadLocalRandom random) {
+        String[] services = SERVICES.clone();
+        StringBuilder json = new StringBuilder("{\"name\":\"Volunteer")
+                .append(random.nextInt(volunteers))
+                .append("\",\"preferences\":[");
+        for (int i = 0; i < 5; i++) {
+            // Partial Fisher-Yates shuffle picks 5 unique services
+            int j = i + random.nextInt(services.length - i);
+            String tmp = services[i];
+            services[i] = services[j];
+            services[j] = tmp;
+            json.append(i == 0 ? "\"" : ",\"").append(services[i]).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    private HttpRequest post(String path, HttpRequest.BodyPublisher body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(body)
+                .build();
+    }
+
+    /**
+     * Sends a request and records its latency, or an error for non-2xx responses.
+     */
+    private void timed(Result result, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                result.record(System.nanoTime() - start);
+            } else {
+                result.errors++;
+            }
+        } catch (IOException e) {
+            result.errors++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Polls the server until it accepts connections, for up to 60 seconds.
+     */
+    private void awaitServer() throws Exception {
+        HttpRequest ping = HttpRequest.newBuilder(URI.create(baseUrl + "/api/assignments")).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (true) {
+            try {
+                client.send(ping, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (ConnectException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Server did not start at " + baseUrl, e);
+                }
+                Thread.sleep(250);
+            }
+        }
+    }
+
+    /**
+     * Starts the Spring Boot jar with the same JVM that runs this harness.
+     */
+    private static Process startServer() throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        String jar = option("jar", "build/libs/AssignmentSystem-0.0.1-SNAPSHOT.jar");
+        boolean virtualThreads = Boolean.parseBoolean(option("virtualThreads", "false"));
+
+        System.out.println("Starting server (virtual threads: " + virtualThreads + ")");
+        return new ProcessBuilder(java, "-jar", jar,
+                "--spring.threads.virtual.enabled=" + virtualThreads)
+                .redirectOutput(new File("build/loadTest-server.log"))
+                .redirectErrorStream(true)
+                .start();
+    }
+
+    private static String option(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private static Result[] newResults() {
+        return new Result[]{new Result("POST /api/preferences"),
+                new Result("GET /api/assignments"),
+                new Result("POST /api/optimize")};
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Latency samples of one endpoint. Each client owns its own instance,
+     * so recording needs no synchronization; results are merged at the end.
+     */
+    private static class Result {
+
+        private final String endpoint;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        Result(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+
+        void print(int seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                    endpoint, count, errors, (double) count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
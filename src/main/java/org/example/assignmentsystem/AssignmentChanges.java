@@ -0,0 +1,58 @@
+package org.example.assignmentsystem;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the assignment changes between two result versions.
+ */
+@Getter
+@Setter
+public class AssignmentChanges {
+
+    /**
+     * Version the client already has.
+     */
+    private long fromVersion;
+
+    /**
+     * Current version the changes lead to.
+     */
+    private long toVersion;
+
+    /**
+     * True if the requested version is no longer known and the changes
+     * contain every current assignment instead of a difference.
+     */
+    private boolean fullResult;
+
+    /**
+     * New service per changed volunteer; null for volunteers no longer assigned.
+     */
+    private Map<String, String> changes;
+
+    /**
+     * Default constructor initializing an empty change map.
+     */
+    public AssignmentChanges() {
+        this.changes = new HashMap<>();
+    }
+
+    /**
+     * Constructs a change set.
+     *
+     * @param fromVersion version the client already has
+     * @param toVersion current version
+     * @param fullResult whether the changes contain the full result
+     * @param changes new service per changed volunteer
+     */
+    public AssignmentChanges(long fromVersion, long toVersion, boolean fullResult, Map<String, String> changes) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.fullResult = fullResult;
+        this.changes = changes;
+    }
+}
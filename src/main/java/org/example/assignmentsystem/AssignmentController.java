@@ -2,9 +2,11 @@ package org.example.assignmentsystem;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -17,6 +19,16 @@ import java.util.List;
 @RequestMapping("/api")
 public class AssignmentController {
 
+    /**
+     * Response header carrying the version of the returned result.
+     */
+    public static final String VERSION_HEADER = "X-Assignment-Version";
+
+    /**
+     * Largest page size accepted by the paginated service endpoint.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final AssignmentService assignmentService;
 
     /**
@@ -50,7 +62,8 @@ public class AssignmentController {
     /**
      * Endpoint to retrieve the current service assignments.
      * Returns a list of ServiceAssignment objects showing each service
-     * and its assigned volunteers.
+     * and its assigned volunteers. The result version is sent in the
+     * X-Assignment-Version header.
      *
      * Example request: GET /api/assignments
      *
@@ -58,7 +71,66 @@ public class AssignmentController {
      */
     @GetMapping("/assignments")
     public ResponseEntity<List<ServiceAssignment>> getAssignments() {
-        return ResponseEntity.ok(assignmentService.getAssignments());
+        AssignmentResult result = assignmentService.getCurrentResult();
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, String.valueOf(result.getVersion()))
+                .body(result.getAssignments());
+    }
+
+    /**
+     * Endpoint to look up the service a single volunteer is assigned to.
+     *
+     * Example request: GET /api/assignments/volunteer/Aysu
+     *
+     * @param name the volunteer's name
+     * @return HTTP 200 OK with the volunteer's assignment, or 404 if not assigned
+     */
+    @GetMapping("/assignments/volunteer/{name}")
+    public ResponseEntity<VolunteerAssignment> getVolunteerAssignment(@PathVariable String name) {
+        AssignmentResult result = assignmentService.getCurrentResult();
+        return result.serviceOf(name)
+                .map(service -> ResponseEntity.ok(new VolunteerAssignment(name, service, result.getVersion())))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint to retrieve one page of the volunteers assigned to a service.
+     *
+     * Example request: GET /api/assignments/service/Reception?page=0&size=100
+     *
+     * @param service the service name
+     * @param page zero-based page number
+     * @param size number of volunteers per page, at most MAX_PAGE_SIZE
+     * @return HTTP 200 OK with the page, 400 for invalid paging, or 404 for an unknown service
+     */
+    @GetMapping("/assignments/service/{service}")
+    public ResponseEntity<AssignmentPage> getServiceAssignments(@PathVariable String service,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "100") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        AssignmentResult result = assignmentService.getCurrentResult();
+        return result.volunteersOf(service)
+                .map(vols -> ResponseEntity.ok(new AssignmentPage(service, vols, page, size, result.getVersion())))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint to retrieve only the assignments that changed since a given result version.
+     * Clients pass the version from the X-Assignment-Version header of their last response.
+     *
+     * Example request: GET /api/assignments/changes?since=3
+     *
+     * @param since the result version the client already has
+     * @return HTTP 200 OK with the changed assignments
+     */
+    @GetMapping("/assignments/changes")
+    public ResponseEntity<AssignmentChanges> getAssignmentChanges(@RequestParam long since) {
+        AssignmentChanges changes = assignmentService.getChangesSince(since);
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, String.valueOf(changes.getToVersion()))
+                .body(changes);
     }
 
     /**
@@ -0,0 +1,78 @@
+package org.example.assignmentsystem;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents one page of the volunteers assigned to a service.
+ */
+@Getter
+@Setter
+public class AssignmentPage {
+
+    /**
+     * Name of the service.
+     */
+    private String serviceName;
+
+    /**
+     * Zero-based page number.
+     */
+    private int page;
+
+    /**
+     * Maximum number of volunteers per page.
+     */
+    private int size;
+
+    /**
+     * Total number of volunteers assigned to the service.
+     */
+    private int totalVolunteers;
+
+    /**
+     * Total number of pages.
+     */
+    private int totalPages;
+
+    /**
+     * Volunteer names on this page, sorted by name.
+     */
+    private List<String> assignedVolunteers;
+
+    /**
+     * Version of the result this page belongs to.
+     */
+    private long version;
+
+    /**
+     * Default constructor initializing an empty list of volunteers.
+     */
+    public AssignmentPage() {
+        this.assignedVolunteers = new ArrayList<>();
+    }
+
+    /**
+     * Constructs a page by cutting it out of the service's full volunteer list.
+     *
+     * @param serviceName the name of the service
+     * @param volunteers all volunteers assigned to the service
+     * @param page zero-based page number
+     * @param size maximum number of volunteers per page
+     * @param version version of the result
+     */
+    public AssignmentPage(String serviceName, List<String> volunteers, int page, int size, long version) {
+        this.serviceName = serviceName;
+        this.page = page;
+        this.size = size;
+        this.totalVolunteers = volunteers.size();
+        this.totalPages = (volunteers.size() + size - 1) / size;
+        int from = (int) Math.min((long) page * size, volunteers.size());
+        int to = Math.min(from + size, volunteers.size());
+        this.assignedVolunteers = volunteers.subList(from, to);
+        this.version = version;
+    }
+}
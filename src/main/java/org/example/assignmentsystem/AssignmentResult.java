@@ -0,0 +1,151 @@
+package org.example.assignmentsystem;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of one published optimization result.
+ * Holds the service assignment list together with hash indexes by volunteer
+ * and by service, built once when the result is published so that lookups
+ * and pages do not scan or serialize the whole result.
+ */
+public class AssignmentResult {
+
+    /**
+     * Result visible before the first optimization has finished.
+     * Lists every service with no volunteers, so service pages are empty rather than missing.
+     */
+    public static final AssignmentResult EMPTY = new AssignmentResult(0, emptyServices());
+
+    /**
+     * Version number of the result, increasing with every published optimization.
+     * Unique per server process; 0 only for {@link #EMPTY}.
+     */
+    @Getter
+    private final long version;
+
+    /**
+     * Assignments of every service, in service order.
+     */
+    @Getter
+    private final List<ServiceAssignment> assignments;
+
+    /**
+     * Index from volunteer name to assigned service name.
+     */
+    private final Map<String, String> volunteerToService;
+
+    /**
+     * Index from service name to its sorted list of volunteer names.
+     */
+    private final Map<String, List<String>> serviceToVolunteers;
+
+    /**
+     * Changes since older versions, keyed by that version. Every client polling
+     * from the same version gets the same diff, so it is computed only once.
+     */
+    private final Map<Long, Map<String, String>> changesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the snapshot and its indexes.
+     *
+     * @param version             version number of the result
+     * @param serviceToVolunteers assigned volunteers keyed by service name
+     */
+    public AssignmentResult(long version, Map<String, List<String>> serviceToVolunteers) {
+        this.version = version;
+
+        List<ServiceAssignment> assignmentList = new ArrayList<>(serviceToVolunteers.size());
+        Map<String, List<String>> byService = new LinkedHashMap<>();
+        Map<String, String> byVolunteer = new HashMap<>();
+        serviceToVolunteers.forEach((service, vols) -> {
+            // Sorted names keep pages stable within a result
+            List<String> sorted = new ArrayList<>(vols);
+            Collections.sort(sorted);
+            List<String> names = Collections.unmodifiableList(sorted);
+
+            byService.put(service, names);
+            assignmentList.add(new ServiceAssignment(service, names));
+            for (String volunteer : names) {
+                byVolunteer.put(volunteer, service);
+            }
+        });
+
+        this.assignments = Collections.unmodifiableList(assignmentList);
+        this.serviceToVolunteers = byService;
+        this.volunteerToService = byVolunteer;
+    }
+
+    /**
+     * @return every service mapped to an empty volunteer list, in service order
+     */
+    private static Map<String, List<String>> emptyServices() {
+        Map<String, List<String>> serviceToVolunteers = new LinkedHashMap<>();
+        for (String service : AssignmentService.SERVICE_NAMES) {
+            serviceToVolunteers.put(service, List.of());
+        }
+        return serviceToVolunteers;
+    }
+
+    /**
+     * @param volunteer volunteer name
+     * @return the service the volunteer is assigned to, or empty if not assigned
+     */
+    public Optional<String> serviceOf(String volunteer) {
+        return Optional.ofNullable(volunteerToService.get(volunteer));
+    }
+
+    /**
+     * @param service service name
+     * @return sorted volunteer names assigned to the service, or empty if the service is unknown
+     */
+    public Optional<List<String>> volunteersOf(String service) {
+        return Optional.ofNullable(serviceToVolunteers.get(service));
+    }
+
+    /**
+     * @return index from volunteer name to assigned service name
+     */
+    public Map<String, String> getVolunteerToService() {
+        return Collections.unmodifiableMap(volunteerToService);
+    }
+
+    /**
+     * Computes which volunteers changed service compared to an older result.
+     * The result is cached per older version and must not be modified.
+     *
+     * @param older the result to compare against
+     * @return new service per changed volunteer; null for volunteers no longer assigned
+     */
+    public Map<String, String> changesSince(AssignmentResult older) {
+        Map<String, String> cached = changesCache.get(older.version);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, String> changes = new HashMap<>();
+        volunteerToService.forEach((volunteer, service) -> {
+            if (!Objects.equals(service, older.volunteerToService.get(volunteer))) {
+                changes.put(volunteer, service);
+            }
+        });
+        older.volunteerToService.keySet().forEach(volunteer -> {
+            if (!volunteerToService.containsKey(volunteer)) {
+                changes.put(volunteer, null);
+            }
+        });
+
+        // Concurrent callers may compute the same diff; the first one stored wins
+        cached = changesCache.putIfAbsent(older.version, Collections.unmodifiableMap(changes));
+        return cached != null ? cached : changesCache.get(older.version);
+    }
+}
@@ -1,11 +1,22 @@
 package org.example.assignmentsystem;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,10 +35,79 @@ public class AssignmentService {
     private Map<String, Volunteer> volunteers = new ConcurrentHashMap<>();
 
     /**
-     * List holding the current assignment results.
-     * Each entry represents a service and its assigned volunteers.
+     * Latest published assignment result with its lookup indexes.
+     * Replaced as a whole when an optimization finishes, so readers never
+     * observe a half-written result.
      */
-    private final List<ServiceAssignment> assignments = new ArrayList<>();
+    private volatile AssignmentResult currentResult = AssignmentResult.EMPTY;
+
+    /**
+     * Most recent results, newest first, used to compute changes since a version.
+     * Immutable and replaced as a whole on publish, so readers need no lock.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile List<AssignmentResult> resultHistory = List.of(AssignmentResult.EMPTY);
+
+    /**
+     * Number of results kept in the history.
+     */
+    private static final int RESULT_HISTORY_SIZE = 8;
+
+    /**
+     * The fixed list of services available, in result order.
+     */
+    static final List<String> SERVICE_NAMES = List.of(
+            "Reception", "Security", "Food", "Transport", "Cleaning",
+            "Logistics", "Guiding", "Medical", "Registration", "HelpDesk"
+    );
+
+    /**
+     * Version of the next published result. Starts at a random epoch in the
+     * upper bits, so versions from before a restart are never mistaken for
+     * current ones; values stay below 2^53 to remain exact in JavaScript clients.
+     */
+    @Getter(AccessLevel.NONE)
+    private long nextVersion = ((long) new Random().nextInt(1, 1 << 20) << 32) + 1;
+
+    /**
+     * Executor used to dispatch optimization jobs.
+     * A bounded pool of platform threads in both threading modes, sized by
+     * {@code assignment.optimization.threads}; see AssignmentSystemApplication.
+     */
+    @Getter(AccessLevel.NONE)
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * Defines how fitness objectives are combined, set by {@code assignment.fitness.*}.
+     */
+    private final FitnessModel fitnessModel;
+
+    /**
+     * Genetic Algorithm variant used for optimization, set by {@code assignment.ga.engine}:
+     * "generational" (default) or "steady-state" (allocation-free generation loop).
+     */
+    @Getter(AccessLevel.NONE)
+    private final String engine;
+
+    /**
+     * Checkpoint file for steady-state runs, set by {@code assignment.ga.checkpoint.path}.
+     * Empty disables checkpoints.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String checkpointPath;
+
+    /**
+     * Minimum time between two checkpoints, set by {@code assignment.ga.checkpoint.interval-ms}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final long checkpointIntervalMs;
+
+    /**
+     * Ensures only one concurrent run writes the checkpoint file.
+     * Other runs proceed without checkpoints.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean checkpointInUse = new AtomicBoolean();
 
     /**
      * Maximum number of volunteers allowed per service.
@@ -35,6 +115,50 @@ public class AssignmentService {
      */
     private static final int MAX_VOLUNTEERS_PER_SERVICE = 3;
 
+    /**
+     * Constructor to inject the executor used for optimization jobs and the GA settings.
+     * @param taskExecutor the executor that runs optimizations in the background
+     * @param fitnessModel the fitness objectives and how they are combined
+     * @param engine the Genetic Algorithm variant to run, "generational" or "steady-state"
+     * @param checkpointPath checkpoint file for steady-state runs, empty to disable
+     * @param checkpointIntervalMs minimum time between two checkpoints
+     */
+    public AssignmentService(@Qualifier("optimizationExecutor") TaskExecutor taskExecutor,
+                             FitnessModel fitnessModel,
+                             @Value("${assignment.ga.engine:generational}") String engine,
+                             @Value("${assignment.ga.checkpoint.path:}") String checkpointPath,
+                             @Value("${assignment.ga.checkpoint.interval-ms:5000}") long checkpointIntervalMs) {
+        if (!engine.equals("generational") && !engine.equals("steady-state")) {
+            throw new IllegalArgumentException("Unknown GA engine: " + engine);
+        }
+        this.taskExecutor = taskExecutor;
+        this.fitnessModel = fitnessModel;
+        this.engine = engine;
+        this.checkpointPath = checkpointPath;
+        this.checkpointIntervalMs = checkpointIntervalMs;
+    }
+
+    /**
+     * Resumes an optimization that was interrupted by a crash or redeploy.
+     * If the checkpoint file holds an unfinished run, its volunteers are
+     * restored into memory and the run continues in the background.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedOptimization() {
+        if (!isCheckpointEnabled()) {
+            return;
+        }
+        try {
+            Optional<CheckpointStore.Checkpoint> checkpoint = new CheckpointStore(Path.of(checkpointPath)).load();
+            if (checkpoint.isPresent()) {
+                checkpoint.get().getVolunteers().forEach(volunteers::putIfAbsent);
+                runOptimizationInNewThread();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not read checkpoint: " + e.getMessage());
+        }
+    }
+
     /**
      * Saves or updates the preferences for a volunteer.
      * @param volunteer the Volunteer object containing name and preference list
@@ -43,6 +167,33 @@ public class AssignmentService {
         volunteers.put(volunteer.getName(), volunteer);
     }
 
+    /**
+     * Returns the current service assignments.
+     * @return list of ServiceAssignment objects of the latest result
+     */
+    public List<ServiceAssignment> getAssignments() {
+        return currentResult.getAssignments();
+    }
+
+    /**
+     * Computes the assignment changes between a given result version and the current one.
+     * If the version is no longer in the history, the full current result is returned.
+     * Runs without locking; the diff is computed once per version and shared.
+     *
+     * @param since the result version the client already has
+     * @return the changes leading to the current result
+     */
+    public AssignmentChanges getChangesSince(long since) {
+        List<AssignmentResult> history = resultHistory;
+        AssignmentResult current = history.get(0);
+        for (AssignmentResult older : history) {
+            if (older.getVersion() == since) {
+                return new AssignmentChanges(since, current.getVersion(), false, current.changesSince(older));
+            }
+        }
+        return new AssignmentChanges(since, current.getVersion(), true, current.getVolunteerToService());
+    }
+
     /*
     // Alternative asynchronous execution using Spring's @Async (commented out)
     @Async
@@ -52,16 +203,15 @@ public class AssignmentService {
     */
 
     /**
-     * Starts the optimization process in a new thread to avoid blocking
+     * Starts the optimization process on the task executor to avoid blocking
      * the main thread or incoming HTTP requests.
      * This allows concurrent handling of multiple clients.
      */
     public void runOptimizationInNewThread() {
-        Thread thread = new Thread(() -> {
+        taskExecutor.execute(() -> {
             runOptimization(); // Run the Genetic Algorithm optimization
             System.out.println("Optimization finished in background thread.");
         });
-        thread.start();
     }
 
     /**
@@ -72,21 +222,34 @@ public class AssignmentService {
      */
     public List<ServiceAssignment> runOptimization() {
 
-        // Define the fixed list of services available
-        List<String> serviceNames = List.of(
-                "Reception", "Security", "Food", "Transport", "Cleaning",
-                "Logistics", "Guiding", "Medical", "Registration", "HelpDesk"
-        );
+        // Fixed list of services available
+        List<String> serviceNames = SERVICE_NAMES;
 
-        // Create and run the genetic algorithm with current volunteers and services
-        GeneticAlgorithmService.GeneticAlgorithm ga = new GeneticAlgorithmService.GeneticAlgorithm(serviceNames, volunteers, this);
-        Chromosome best = ga.run();
+        // Preferences may be submitted during the run; the whole run works on one copy
+        Map<String, Volunteer> snapshot = Map.copyOf(volunteers);
 
-        // Clear previous assignments before storing new results
-        assignments.clear();
+        // Create and run the configured genetic algorithm with current volunteers and services
+        Chromosome best;
+        if ("steady-state".equals(engine)) {
+            GeneticAlgorithmService.SteadyStateGeneticAlgorithm ga =
+                    new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(serviceNames, snapshot, this);
+            boolean checkpointed = isCheckpointEnabled() && checkpointInUse.compareAndSet(false, true);
+            try {
+                if (checkpointed) {
+                    ga.enableCheckpoints(new CheckpointStore(Path.of(checkpointPath)), checkpointIntervalMs);
+                }
+                best = ga.run();
+            } finally {
+                if (checkpointed) {
+                    checkpointInUse.set(false);
+                }
+            }
+        } else {
+            best = new GeneticAlgorithmService.GeneticAlgorithm(serviceNames, snapshot, this).run();
+        }
 
         // Initialize map from service names to assigned volunteer lists
-        Map<String, List<String>> serviceToVolunteers = new HashMap<>();
+        Map<String, List<String>> serviceToVolunteers = new LinkedHashMap<>();
         for (String service : serviceNames) {
             serviceToVolunteers.put(service, new ArrayList<>());
         }
@@ -96,12 +259,30 @@ public class AssignmentService {
             serviceToVolunteers.get(service).add(volunteer);
         });
 
-        // Convert map entries to ServiceAssignment objects and store in assignments list
-        serviceToVolunteers.forEach((service, vols) -> {
-            assignments.add(new ServiceAssignment(service, vols));
-        });
+        // Index, publish and return the final assignments
+        return publish(serviceToVolunteers).getAssignments();
+    }
 
-        // Return the final assignments
-        return assignments;
+    /**
+     * Builds the indexed result with the next version number and makes it current.
+     *
+     * @param serviceToVolunteers assigned volunteers keyed by service name
+     * @return the published result
+     */
+    private synchronized AssignmentResult publish(Map<String, List<String>> serviceToVolunteers) {
+        AssignmentResult result = new AssignmentResult(nextVersion++, serviceToVolunteers);
+        List<AssignmentResult> history = new ArrayList<>(RESULT_HISTORY_SIZE);
+        history.add(result);
+        history.addAll(resultHistory.subList(0, Math.min(resultHistory.size(), RESULT_HISTORY_SIZE - 1)));
+        resultHistory = List.copyOf(history);
+        currentResult = result;
+        return result;
+    }
+
+    /**
+     * Checkpoints only apply to the steady-state engine, whose state is held in flat arrays.
+     */
+    private boolean isCheckpointEnabled() {
+        return "steady-state".equals(engine) && !checkpointPath.isBlank();
     }
 }
@@ -1,8 +1,13 @@
 package org.example.assignmentsystem;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @SpringBootApplication
 @EnableAsync
@@ -12,4 +17,25 @@ public class AssignmentSystemApplication {
         SpringApplication.run(AssignmentSystemApplication.class, args);
     }
 
+    /**
+     * Executor for optimization runs, separate from request handling.
+     * Uses a fixed number of platform threads in both threading modes, so
+     * long CPU-bound runs never occupy the carrier threads serving requests.
+     * While all threads are busy one more run is queued and further requests
+     * are dropped; the queued run reads the latest preferences when it starts.
+     *
+     * @param threads maximum number of concurrent optimization runs
+     * @return the optimization executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor optimizationExecutor(@Value("${assignment.optimization.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("optimization-");
+        return executor;
+    }
+
 }
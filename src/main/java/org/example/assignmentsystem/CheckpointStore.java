@@ -0,0 +1,391 @@
+package org.example.assignmentsystem;
+
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Stores checkpoints of a steady-state Genetic Algorithm run in a binary file
+ * written through a memory-mapped FileChannel.
+ *
+ * File layout:
+ * header (magic, version, volunteer count, population size, volunteer section length, CRC32),
+ * volunteer section (names and preferences, written once per run, covered by the header CRC),
+ * then two checkpoint slots used alternately. Each slot holds the sequence
+ * number, fingerprint, RNG state, generation, a CRC32 and the population genes.
+ * A crash in the middle of a write only damages the slot being written; the
+ * other slot still holds the previous checkpoint. Every written slot is forced
+ * to disk, so checkpoints also survive an OS crash or power loss.
+ * Slots are written and forced by a background thread from a copy of the
+ * genes, so the run only pays for that copy.
+ */
+public class CheckpointStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x47414350;   // "GACP"
+    private static final int VERSION = 2;
+    private static final int HEADER_CRC = 20;
+    private static final int HEADER_BYTES = 24;
+
+    // Offsets inside a slot
+    private static final int SEQUENCE = 0;
+    private static final int FINGERPRINT = 8;
+    private static final int RANDOM_STATE = 16;
+    private static final int GENERATION = 24;
+    private static final int CRC = 28;
+    private static final int GENES = 32;
+
+    private final Path path;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int slotOffset;                // Offset of the first slot
+    private int slotBytes;
+    private long sequence;
+
+    private ExecutorService writer;        // Writes and forces slots off the GA thread
+    private int[] pendingGenes;            // Copy of the genes being written
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * Creates a store for the given checkpoint file. Nothing is read or written yet.
+     * @param path location of the checkpoint file
+     */
+    public CheckpointStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Maps the checkpoint file for a run into memory. If the file already
+     * belongs to the same volunteers and population size, e.g. when resuming,
+     * it is reused and its checkpoints stay valid until overwritten by
+     * {@link #save}. Otherwise it is replaced by an empty file.
+     *
+     * @param volunteers     volunteers in gene order
+     * @param populationSize number of individuals in the population
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public void open(List<Volunteer> volunteers, int populationSize) throws IOException {
+        close();
+        byte[] volunteerSection = encodeVolunteers(volunteers);
+        long genesBytes = 4L * volunteers.size() * populationSize;
+        long size = HEADER_BYTES + volunteerSection.length + 2 * (GENES + genesBytes);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Population too large for a checkpoint file: " + size + " bytes");
+        }
+
+        slotOffset = HEADER_BYTES + volunteerSection.length;
+        slotBytes = (int) (GENES + genesBytes);
+
+        ByteBuffer header = ByteBuffer.allocate(slotOffset)
+                .putInt(0, MAGIC)
+                .putInt(4, VERSION)
+                .putInt(8, volunteers.size())
+                .putInt(12, populationSize)
+                .putInt(16, volunteerSection.length)
+                .put(HEADER_BYTES, volunteerSection);
+        header.putInt(HEADER_CRC, headerChecksum(header, volunteerSection.length));
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean reuse = channel.size() == size;
+        if (reuse) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            reuse = buffer.slice(0, slotOffset).equals(header);
+        }
+
+        if (reuse) {
+            // Continue the sequence so the next save overwrites the older slot
+            sequence = Math.max(validSequence(buffer.slice(slotOffset, slotBytes)),
+                    validSequence(buffer.slice(slotOffset + slotBytes, slotBytes)));
+        } else {
+            channel.truncate(0);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.put(0, header, 0, slotOffset);
+            buffer.force(0, slotOffset);
+            sequence = 0;
+        }
+        pendingGenes = new int[volunteers.size() * populationSize];
+        writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("checkpoint-writer").daemon().factory());
+    }
+
+    /**
+     * Writes a checkpoint into the older of the two slots.
+     * The caller only copies the genes; writing the slot, its CRC32 and
+     * forcing it to disk happen in the background. Waits only if the
+     * previous checkpoint is still being written.
+     *
+     * @param fingerprint identifies the volunteers and preferences the genes belong to
+     * @param generation  number of completed generations
+     * @param randomState state of the run's random number generator
+     * @param genes       flat population array
+     */
+    public void save(long fingerprint, int generation, long randomState, int[] genes) {
+        awaitWrite();
+        System.arraycopy(genes, 0, pendingGenes, 0, genes.length);
+        long slotSequence = ++sequence;
+        pendingWrite = CompletableFuture.runAsync(
+                () -> write(slotSequence, fingerprint, generation, randomState), writer);
+    }
+
+    /**
+     * Writes pendingGenes into the slot for the given sequence number and forces it to disk.
+     * A failure only loses this checkpoint, so it is reported instead of failing the run.
+     */
+    private void write(long slotSequence, long fingerprint, int generation, long randomState) {
+        try {
+            int offset = slotOffset + (int) ((slotSequence - 1) & 1) * slotBytes;
+            ByteBuffer slot = buffer.slice(offset, slotBytes);
+
+            // Invalidate the slot first, so a crash mid-write never leaves it looking complete
+            slot.putLong(SEQUENCE, 0);
+            slot.putLong(FINGERPRINT, fingerprint)
+                    .putLong(RANDOM_STATE, randomState)
+                    .putInt(GENERATION, generation);
+            slot.slice(GENES, slotBytes - GENES).asIntBuffer().put(pendingGenes);
+
+            slot.putInt(CRC, checksum(slot, slotSequence));
+            slot.putLong(SEQUENCE, slotSequence);
+            buffer.force(offset, slotBytes);
+        } catch (RuntimeException e) {
+            System.err.println("Could not write checkpoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits until the last checkpoint has been written and forced to disk.
+     */
+    private void awaitWrite() {
+        if (pendingWrite != null) {
+            pendingWrite.join();
+            pendingWrite = null;
+        }
+    }
+
+    /**
+     * Invalidates both slots, e.g. after the run has finished.
+     */
+    public void clear() {
+        if (buffer != null) {
+            awaitWrite();
+            buffer.putLong(slotOffset + SEQUENCE, 0);
+            buffer.putLong(slotOffset + slotBytes + SEQUENCE, 0);
+            buffer.force(slotOffset, 2 * slotBytes);
+        }
+    }
+
+    /**
+     * Reads the latest valid checkpoint from the file, if any.
+     *
+     * @return the checkpoint, or empty if the file is missing, from another
+     *         format version, corrupted, or holds no complete checkpoint
+     * @throws IOException if the file exists but cannot be read
+     */
+    public Optional<Checkpoint> load() throws IOException {
+        awaitWrite();
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (in.size() < HEADER_BYTES || in.size() > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            return read(in.map(FileChannel.MapMode.READ_ONLY, 0, in.size()));
+        } catch (RuntimeException e) {
+            // Anything that passed the checksums but still fails to decode is treated as no checkpoint
+            System.err.println("Ignoring unreadable checkpoint: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses a mapped checkpoint file, validating sizes and checksums before allocating anything.
+     */
+    private static Optional<Checkpoint> read(ByteBuffer file) throws IOException {
+        if (file.getInt(0) != MAGIC || file.getInt(4) != VERSION) {
+            return Optional.empty();
+        }
+        int numVolunteers = file.getInt(8);
+        int populationSize = file.getInt(12);
+        int volunteerBytes = file.getInt(16);
+        if (numVolunteers < 0 || populationSize < 0 || volunteerBytes < 0) {
+            return Optional.empty();
+        }
+        long firstSlot = (long) HEADER_BYTES + volunteerBytes;
+        long slotSize = GENES + 4L * numVolunteers * populationSize;
+        if (file.capacity() != firstSlot + 2 * slotSize
+                || file.getInt(HEADER_CRC) != headerChecksum(file, volunteerBytes)) {
+            return Optional.empty();
+        }
+        return readSlots(file, numVolunteers, populationSize, volunteerBytes);
+    }
+
+    /**
+     * Picks the valid slot with the highest sequence number and decodes it with the volunteers.
+     */
+    private static Optional<Checkpoint> readSlots(ByteBuffer file, int numVolunteers, int populationSize,
+                                                  int volunteerBytes) throws IOException {
+        int firstSlot = HEADER_BYTES + volunteerBytes;
+        int bytesPerSlot = GENES + 4 * numVolunteers * populationSize;
+
+        // Pick the valid slot with the highest sequence number
+        ByteBuffer latest = null;
+        for (int i = 0; i < 2; i++) {
+            ByteBuffer slot = file.slice(firstSlot + i * bytesPerSlot, bytesPerSlot);
+            long slotSequence = validSequence(slot);
+            if (slotSequence != 0 && (latest == null || slotSequence > latest.getLong(SEQUENCE))) {
+                latest = slot;
+            }
+        }
+        if (latest == null) {
+            return Optional.empty();
+        }
+
+        byte[] volunteerSection = new byte[volunteerBytes];
+        file.get(HEADER_BYTES, volunteerSection);
+        int[] genes = new int[numVolunteers * populationSize];
+        latest.slice(GENES, bytesPerSlot - GENES).asIntBuffer().get(genes);
+
+        return Optional.of(new Checkpoint(decodeVolunteers(volunteerSection),
+                latest.getLong(FINGERPRINT), latest.getInt(GENERATION),
+                latest.getLong(RANDOM_STATE), genes));
+    }
+
+    /**
+     * @return the slot's sequence number, or 0 if the slot is empty or its CRC does not match
+     */
+    private static long validSequence(ByteBuffer slot) {
+        long slotSequence = slot.getLong(SEQUENCE);
+        return slotSequence != 0 && slot.getInt(CRC) == checksum(slot, slotSequence) ? slotSequence : 0;
+    }
+
+    /**
+     * CRC32 over the header fields and the volunteer section.
+     */
+    private static int headerChecksum(ByteBuffer file, int volunteerBytes) {
+        CRC32 crc = new CRC32();
+        crc.update(file.slice(0, HEADER_CRC));
+        crc.update(file.slice(HEADER_BYTES, volunteerBytes));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Releases the file; the mapping itself is released when garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            awaitWrite();
+            if (writer != null) {
+                writer.shutdown();
+                writer = null;
+            }
+            channel.close();
+            channel = null;
+            buffer = null;
+            pendingGenes = null;
+        }
+    }
+
+    /**
+     * CRC32 over the sequence number and everything in the slot except the CRC field.
+     */
+    private static int checksum(ByteBuffer slot, long sequence) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(8).putLong(0, sequence));
+        crc.update(slot.slice(FINGERPRINT, CRC - FINGERPRINT));
+        crc.update(slot.slice(GENES, slot.capacity() - GENES));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodeVolunteers(List<Volunteer> volunteers) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Volunteer volunteer : volunteers) {
+                List<String> prefs = volunteer.getPreferences() == null ? List.of() : volunteer.getPreferences();
+                out.writeUTF(volunteer.getName());
+                out.writeInt(prefs.size());
+                for (String pref : prefs) {
+                    out.writeUTF(pref);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Map<String, Volunteer> decodeVolunteers(byte[] section) throws IOException {
+        Map<String, Volunteer> volunteers = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(section))) {
+            while (in.available() > 0) {
+                String name = in.readUTF();
+                int count = in.readInt();
+                List<String> prefs = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    prefs.add(in.readUTF());
+                }
+                volunteers.put(name, new Volunteer(name, prefs));
+            }
+        }
+        return volunteers;
+    }
+
+    /**
+     * State of a run as read back from a checkpoint file.
+     * Fitness values and the best solution are not stored: they are
+     * recomputed from the genes, and the steady-state replacement never
+     * discards the best individual.
+     */
+    @Getter
+    public static class Checkpoint {
+
+        /**
+         * Volunteers of the run in gene order, keyed by name.
+         */
+        private final Map<String, Volunteer> volunteers;
+
+        /**
+         * Fingerprint of the volunteers and preferences the genes belong to.
+         */
+        private final long fingerprint;
+
+        /**
+         * Number of completed generations.
+         */
+        private final int generation;
+
+        /**
+         * State of the random number generator.
+         */
+        private final long randomState;
+
+        /**
+         * Flat population array.
+         */
+        private final int[] genes;
+
+        public Checkpoint(Map<String, Volunteer> volunteers, long fingerprint, int generation, long randomState, int[] genes) {
+            this.volunteers = volunteers;
+            this.fingerprint = fingerprint;
+            this.generation = generation;
+            this.randomState = randomState;
+            this.genes = genes;
+        }
+    }
+}
@@ -15,6 +15,11 @@ import java.util.Map;
 @Setter
 public class Chromosome {
 
+    /**
+     * Dissatisfaction added when a volunteer is assigned outside their preferences.
+     */
+    public static final int UNPREFERRED_PENALTY = 5;
+
     /**
      * Reference to the assignment service to access volunteers and save data if needed.
      */
@@ -27,13 +32,18 @@ public class Chromosome {
     private Map<String, String> volunteerToService;
 
     /**
-     * Fitness score representing total dissatisfaction across all volunteers.
-     * Lower fitness means better overall assignment.
+     * Fitness score combining total dissatisfaction and the fairness objectives
+     * configured in FitnessModel. Lower fitness means better overall assignment.
+     */
+    private long fitness;
+
+    /**
+     * Scoring of the current optimization run.
      */
-    private int fitness;
+    private FitnessModel.Scoring scoring;
 
     /**
-     * Map of volunteers keyed by their names, retrieved from AssignmentService.
+     * Map of volunteers keyed by their names, the snapshot the run is scored against.
      */
     private Map<String, Volunteer> volunteerMap;
 
@@ -43,17 +53,19 @@ public class Chromosome {
      *
      * @param assignmentService reference to the AssignmentService
      * @param volunteerToService map of volunteer-to-service assignments
+     * @param scoring scoring of the current optimization run
      */
-    public Chromosome(AssignmentService assignmentService, Map<String, String> volunteerToService) {
+    public Chromosome(AssignmentService assignmentService, Map<String, String> volunteerToService, FitnessModel.Scoring scoring) {
         this.assignmentService = assignmentService;
         this.volunteerToService = volunteerToService;
+        this.scoring = scoring;
 
         // Example: save a volunteer's preferences if needed (optional, for initial testing)
         Volunteer volunteer = new Volunteer("Aysu", List.of("Reception", "Security"));
         assignmentService.savePreferences(volunteer);
 
-        // Retrieve the latest volunteer map from the assignment service
-        volunteerMap = assignmentService.getVolunteers();
+        // Score against the run's volunteers, not the live map that may change meanwhile
+        volunteerMap = scoring.getVolunteers();
 
         // Calculate fitness score based on the current assignment
         calculateFitness();
@@ -61,28 +73,12 @@ public class Chromosome {
 
     /**
      * Calculates the fitness score of the chromosome.
-     * The score sums the dissatisfaction of each volunteer based on preference ranking.
-     * If assigned service is not in volunteer's preference list, adds a penalty of 5.
+     * The dissatisfaction of each volunteer is their preference rank, or a penalty of 5
+     * if the assigned service is not in their preference list. The run's scoring combines
+     * the total with the worst rank, unpreferred count and staffing deficit.
      */
     private void calculateFitness() {
-        int totalDissatisfaction = 0;
-
-        for (Map.Entry<String, String> entry : volunteerToService.entrySet()) {
-            String volunteer = entry.getKey();
-            String assignedService = entry.getValue();
-
-            assert volunteerMap != null;
-
-            // Get volunteer's preference list
-            List<String> prefs = volunteerMap.get(volunteer).getPreferences();
-
-            // Find rank of assigned service in preferences; -1 if not found
-            int rank = prefs.indexOf(assignedService);
-
-            // Add dissatisfaction: 0 if top choice, up to 5 if not preferred
-            totalDissatisfaction += (rank == -1 ? 5 : rank);
-        }
-
-        this.fitness = totalDissatisfaction;
+        assert volunteerMap != null;
+        this.fitness = scoring.evaluate(volunteerToService, volunteerMap);
     }
 }
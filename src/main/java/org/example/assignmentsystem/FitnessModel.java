@@ -0,0 +1,317 @@
+package org.example.assignmentsystem;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Defines how the objectives of an assignment are combined into one fitness score.
+ * Lower scores are better. The objectives are:
+ * total dissatisfaction (sum of ranks, as before), worst-case rank of any
+ * assigned volunteer, number of volunteers placed outside their preferences,
+ * and the staffing deficit (missing volunteers below the per-service minimum).
+ *
+ * In "weighted" mode the score is the weighted sum of the objectives.
+ * In "lexicographic" mode the objectives are compared in the configured
+ * order; this is implemented as a weighted sum whose weights are chosen
+ * from the objectives' upper bounds, so no later objective can outweigh
+ * an earlier one. The default (weight 1 on dissatisfaction only) gives
+ * the original fitness.
+ */
+@Component
+@Getter
+public class FitnessModel {
+
+    /**
+     * Objectives that can be part of the fitness score.
+     */
+    public enum Objective {
+        DISSATISFACTION, WORST_RANK, UNPREFERRED, STAFFING_DEFICIT;
+
+        /**
+         * @param name objective name as used in configuration, e.g. "worst-rank"
+         * @return the matching objective
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static Objective fromConfigName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * Original fitness: total dissatisfaction only.
+     */
+    public static final FitnessModel DEFAULT = new FitnessModel("weighted", 1, 0, 0, 0, List.of("dissatisfaction"), 0, List.of());
+
+    /**
+     * Whether objectives are ordered lexicographically instead of weighted.
+     */
+    private final boolean lexicographic;
+
+    /**
+     * Weight per objective in weighted mode.
+     */
+    private final Map<Objective, Long> weights;
+
+    /**
+     * Objective priority in lexicographic mode, most important first.
+     */
+    private final List<Objective> order;
+
+    /**
+     * Minimum number of volunteers of services without their own minimum.
+     */
+    private final int minStaffing;
+
+    /**
+     * Minimum number of volunteers per service name, overriding minStaffing.
+     */
+    private final Map<String, Integer> minStaffingPerService;
+
+    /**
+     * Constructor reading the fitness settings from {@code assignment.fitness.*} properties.
+     *
+     * @param mode "weighted" or "lexicographic"
+     * @param dissatisfactionWeight weight of total dissatisfaction
+     * @param worstRankWeight weight of the worst-case rank
+     * @param unpreferredWeight weight of the number of unpreferred placements
+     * @param staffingDeficitWeight weight of the staffing deficit
+     * @param order objective names by priority, used in lexicographic mode
+     * @param minStaffing minimum number of volunteers per service
+     * @param minStaffingPerService "Service:count" entries overriding minStaffing for single services
+     */
+    public FitnessModel(@Value("${assignment.fitness.mode:weighted}") String mode,
+                        @Value("${assignment.fitness.weights.dissatisfaction:1}") long dissatisfactionWeight,
+                        @Value("${assignment.fitness.weights.worst-rank:0}") long worstRankWeight,
+                        @Value("${assignment.fitness.weights.unpreferred:0}") long unpreferredWeight,
+                        @Value("${assignment.fitness.weights.staffing-deficit:0}") long staffingDeficitWeight,
+                        @Value("${assignment.fitness.order:dissatisfaction}") List<String> order,
+                        @Value("${assignment.fitness.min-staffing:0}") int minStaffing,
+                        @Value("${assignment.fitness.min-staffing-per-service:}") List<String> minStaffingPerService) {
+        if (!mode.equals("weighted") && !mode.equals("lexicographic")) {
+            throw new IllegalArgumentException("Unknown fitness mode: " + mode);
+        }
+        if (minStaffing < 0) {
+            throw new IllegalArgumentException("Minimum staffing must not be negative: " + minStaffing);
+        }
+        this.lexicographic = mode.equals("lexicographic");
+        this.weights = Map.of(
+                Objective.DISSATISFACTION, dissatisfactionWeight,
+                Objective.WORST_RANK, worstRankWeight,
+                Objective.UNPREFERRED, unpreferredWeight,
+                Objective.STAFFING_DEFICIT, staffingDeficitWeight);
+        this.order = order.stream().map(Objective::fromConfigName).distinct().toList();
+        this.minStaffing = minStaffing;
+
+        Map<String, Integer> perService = new HashMap<>();
+        for (String entry : minStaffingPerService) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            int minimum;
+            try {
+                minimum = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : -1;
+            } catch (NumberFormatException e) {
+                minimum = -1;
+            }
+            if (minimum < 0) {
+                throw new IllegalArgumentException("Expected Service:count with a non-negative count: " + entry);
+            }
+            perService.put(parts[0].trim(), minimum);
+        }
+        this.minStaffingPerService = Map.copyOf(perService);
+    }
+
+    /**
+     * Binds the model to one optimization run.
+     *
+     * @param serviceList list of service names available
+     * @param volunteers snapshot of the volunteers keyed by their names, unchanged during the run
+     * @return scoring for assignments of these volunteers to these services
+     */
+    public Scoring scoring(List<String> serviceList, Map<String, Volunteer> volunteers) {
+        int maxPreferences = 0;
+        for (Volunteer volunteer : volunteers.values()) {
+            if (volunteer.getPreferences() != null) {
+                maxPreferences = Math.max(maxPreferences, volunteer.getPreferences().size());
+            }
+        }
+        return new Scoring(serviceList, volunteers, maxPreferences);
+    }
+
+    /**
+     * @param service service name
+     * @return minimum number of volunteers the service should have
+     */
+    public int minStaffingOf(String service) {
+        return minStaffingPerService.getOrDefault(service, minStaffing);
+    }
+
+    /**
+     * Fitness scoring for one run. Knows the objectives' upper bounds, which
+     * lexicographic weights are derived from.
+     */
+    @Getter
+    public class Scoring {
+
+        /**
+         * List of service names available.
+         */
+        private final List<String> serviceList;
+
+        /**
+         * Volunteers of the run keyed by their names; the bounds are derived from them.
+         */
+        private final Map<String, Volunteer> volunteers;
+
+        /**
+         * Rank value of an unpreferred placement, one past the last preference rank.
+         */
+        private final int unpreferredRank;
+
+        /**
+         * Multiplier per objective, indexed by Objective ordinal.
+         */
+        private final long[] multipliers = new long[Objective.values().length];
+
+        /**
+         * Minimum number of volunteers per service, in serviceList order.
+         */
+        private final int[] minimums;
+
+        /**
+         * Position of each service in serviceList, for staffing counts.
+         */
+        @Getter(AccessLevel.NONE)
+        private final Map<String, Integer> serviceIndex = new HashMap<>();
+
+        /**
+         * Whether the staffing deficit can affect the score at all.
+         * With the default settings it cannot, and evaluate skips counting.
+         */
+        @Getter(AccessLevel.NONE)
+        private final boolean countStaffing;
+
+        private Scoring(List<String> serviceList, Map<String, Volunteer> volunteers, int maxPreferences) {
+            this.serviceList = serviceList;
+            this.volunteers = volunteers;
+            this.unpreferredRank = maxPreferences;
+            int numVolunteers = volunteers.size();
+            for (String service : minStaffingPerService.keySet()) {
+                if (!serviceList.contains(service)) {
+                    throw new IllegalArgumentException("Minimum staffing configured for unknown service: " + service);
+                }
+            }
+            this.minimums = new int[serviceList.size()];
+            for (int s = 0; s < serviceList.size(); s++) {
+                serviceIndex.put(serviceList.get(s), s);
+                minimums[s] = minStaffingOf(serviceList.get(s));
+            }
+
+            if (lexicographic) {
+                lexicographicMultipliers(numVolunteers, maxPreferences);
+            } else {
+                weights.forEach((objective, weight) -> multipliers[objective.ordinal()] = weight);
+            }
+            countStaffing = Arrays.stream(minimums).anyMatch(minimum -> minimum > 0)
+                    && multipliers[Objective.STAFFING_DEFICIT.ordinal()] != 0;
+        }
+
+        /**
+         * Chooses multipliers so that each objective in the configured order
+         * outweighs everything after it.
+         */
+        private void lexicographicMultipliers(int numVolunteers, int maxPreferences) {
+            // Largest value each objective can take in this run
+            long[] bounds = new long[multipliers.length];
+            int maxCost = Math.max(Chromosome.UNPREFERRED_PENALTY, maxPreferences - 1);
+            bounds[Objective.DISSATISFACTION.ordinal()] = (long) numVolunteers * maxCost;
+            bounds[Objective.WORST_RANK.ordinal()] = unpreferredRank;
+            bounds[Objective.UNPREFERRED.ordinal()] = numVolunteers;
+            bounds[Objective.STAFFING_DEFICIT.ordinal()] = Arrays.stream(minimums).asLongStream().sum();
+
+            // The last objective counts once; each earlier one outweighs everything after it
+            long multiplier = 1;
+            List<Objective> reversed = new ArrayList<>(order);
+            Collections.reverse(reversed);
+            try {
+                for (Objective objective : reversed) {
+                    multipliers[objective.ordinal()] = multiplier;
+                    multiplier = Math.multiplyExact(multiplier, bounds[objective.ordinal()] + 1);
+                }
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Lexicographic fitness does not fit into a long for "
+                        + numVolunteers + " volunteers", e);
+            }
+        }
+
+        /**
+         * Combines objective values into one score. Lower is better.
+         *
+         * @param dissatisfaction total dissatisfaction
+         * @param worstRank worst rank of any assigned volunteer, unpreferredRank if outside preferences
+         * @param unpreferred number of volunteers outside their preferences
+         * @param staffingDeficit missing volunteers below the minimum, summed over services
+         * @return fitness score
+         */
+        public long score(long dissatisfaction, int worstRank, int unpreferred, int staffingDeficit) {
+            return multipliers[0] * dissatisfaction
+                    + multipliers[1] * worstRank
+                    + multipliers[2] * unpreferred
+                    + multipliers[3] * staffingDeficit;
+        }
+
+        /**
+         * Computes the score of a full assignment from scratch.
+         *
+         * @param volunteerToService assigned service per volunteer name
+         * @param volunteers map of volunteer objects keyed by their names
+         * @return fitness score
+         */
+        public long evaluate(Map<String, String> volunteerToService, Map<String, Volunteer> volunteers) {
+            long dissatisfaction = 0;
+            int worstRank = 0;
+            int unpreferred = 0;
+            int[] staffing = countStaffing ? new int[serviceList.size()] : null;
+
+            for (Map.Entry<String, String> entry : volunteerToService.entrySet()) {
+                // Find rank of assigned service in preferences; -1 if not found
+                List<String> prefs = volunteers.get(entry.getKey()).getPreferences();
+                int rank = prefs.indexOf(entry.getValue());
+
+                if (rank == -1) {
+                    dissatisfaction += Chromosome.UNPREFERRED_PENALTY;
+                    worstRank = unpreferredRank;
+                    unpreferred++;
+                } else {
+                    dissatisfaction += rank;
+                    worstRank = Math.max(worstRank, rank);
+                }
+                if (staffing != null) {
+                    Integer service = serviceIndex.get(entry.getValue());
+                    if (service != null) {
+                        staffing[service]++;
+                    }
+                }
+            }
+
+            int staffingDeficit = 0;
+            if (staffing != null) {
+                for (int s = 0; s < staffing.length; s++) {
+                    staffingDeficit += Math.max(0, minimums[s] - staffing[s]);
+                }
+            }
+            return score(dissatisfaction, worstRank, unpreferred, staffingDeficit);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.assignmentsystem;
 
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -25,6 +26,7 @@ public class GeneticAlgorithmService {
         private final List<String> serviceList;                  // List of service names
         private final Map<String, Volunteer> volunteers;         // Map of volunteers by name
         private final AssignmentService assignmentService;       // Reference to assignment service
+        private final FitnessModel.Scoring scoring;              // Fitness scoring for this run
 
         /**
          * Constructor initializing GA with services, volunteers, and assignment service reference.
@@ -37,6 +39,7 @@ public class GeneticAlgorithmService {
             this.serviceList = serviceList;
             this.volunteers = volunteers;
             this.assignmentService = assignmentService;
+            this.scoring = assignmentService.getFitnessModel().scoring(serviceList, volunteers);
         }
 
         /**
@@ -51,7 +54,7 @@ public class GeneticAlgorithmService {
             // Iterate through generations
             for (int generation = 0; generation < NUM_GENERATIONS; generation++) {
                 // Sort population by fitness (lower is better)
-                population.sort(Comparator.comparingInt(Chromosome::getFitness));
+                population.sort(Comparator.comparingLong(Chromosome::getFitness));
                 List<Chromosome> newPopulation = new ArrayList<>();
 
                 // Elitism: retain the top 2 best solutions directly
@@ -72,7 +75,7 @@ public class GeneticAlgorithmService {
             }
 
             // Return the best chromosome (solution) found
-            return population.stream().min(Comparator.comparingInt(Chromosome::getFitness)).orElse(null);
+            return population.stream().min(Comparator.comparingLong(Chromosome::getFitness)).orElse(null);
         }
 
         /**
@@ -126,7 +129,7 @@ public class GeneticAlgorithmService {
                 }
 
                 // Create a Chromosome with the generated assignment map
-                population.add(new Chromosome(assignmentService, assignment));
+                population.add(new Chromosome(assignmentService, assignment, scoring));
             }
 
             return population;
@@ -163,7 +166,7 @@ public class GeneticAlgorithmService {
                     childMap.put(v, c2.getVolunteerToService().get(v));
                 }
             }
-            return new Chromosome(assignmentService, childMap);
+            return new Chromosome(assignmentService, childMap, scoring);
         }
 
         /**
@@ -185,7 +188,578 @@ public class GeneticAlgorithmService {
 
             // Recalculate fitness after mutation by creating a new Chromosome instance
             // Note: This line currently creates a new instance but does not replace the reference outside
-            c = new Chromosome(assignmentService, map);
+            c = new Chromosome(assignmentService, map, scoring);
+        }
+    }
+
+    /**
+     * Steady-state variant of the Genetic Algorithm.
+     * The population lives in one preallocated flat array of service indexes
+     * (one row per individual) and each offspring replaces the worst individual
+     * in place, so the generation loop allocates nothing. The number of
+     * offspring per generation matches {@link GeneticAlgorithm}.
+     * Every row keeps a running histogram of preference ranks and a staffing
+     * count per service, so all fitness objectives are updated in O(1) per
+     * gene change instead of being recomputed. The same counts keep every
+     * offspring within MAX_VOLUNTEERS_PER_SERVICE per service.
+     * Optionally writes periodic checkpoints and resumes from the latest one.
+     */
+    public static class SteadyStateGeneticAlgorithm {
+
+        public static final int UNASSIGNED = -1;                // Gene value for a volunteer without a service
+        public static final int UNPREFERRED_PENALTY = Chromosome.UNPREFERRED_PENALTY;
+        public static final double MUTATION_RATE = 0.05;        // Chance for each volunteer to be reassigned
+        public static final int OFFSPRING_PER_GENERATION = GeneticAlgorithm.POPULATION_SIZE - 2;
+
+        private static final int POPULATION_SIZE = GeneticAlgorithm.POPULATION_SIZE;
+        private static final int CAPACITY = GeneticAlgorithm.MAX_VOLUNTEERS_PER_SERVICE;
+        private static final double LOG_KEEP = Math.log(1 - MUTATION_RATE);
+
+        private final List<String> serviceList;                  // List of service names
+        private final AssignmentService assignmentService;       // Reference to assignment service
+        private final FitnessModel.Scoring scoring;              // Fitness scoring for this run
+        private final String[] volunteerNames;                   // Volunteer names, index = gene position
+        private final List<Volunteer> volunteerList;             // Volunteers in gene order, for checkpoints
+        private final int numVolunteers;
+        private final int numServices;
+        private final int costStride;                            // Row length of the bin table: numServices + 1
+        private final int numBins;                               // Histogram bins: unassigned, each rank, unpreferred
+        private final int[] bins;                                // Histogram bin of volunteer v in service s at [v * costStride + s + 1]
+        private final int[] binCost;                             // Dissatisfaction per histogram bin
+        private final int[] minStaffing;                         // Minimum count per service slot; slot 0 is unassigned
+        private final int[][] preferenceIndexes;                 // Preferred service indexes per volunteer, by rank
+
+        private final int[] genes;                               // Population, POPULATION_SIZE rows of numVolunteers genes
+        private final int[] histograms;                          // Rank histogram per row, numBins entries each
+        private final int[] staffing;                            // Volunteers per service slot per row, costStride entries each
+        private final int[] dissatisfaction;                     // Total dissatisfaction per row
+        private final int[] deficit;                             // Staffing deficit per row
+        private final long[] fitness;                            // Fitness per row, lower is better
+
+        private final int[] child;                               // Scratch row for the offspring being built
+        private final int[] childHistogram;
+        private final int[] childStaffing;
+        private int childDissatisfaction;
+        private int childDeficit;
+        private long childFitness;
+        private final int[] serviceLoad;                         // Scratch capacity counters for random assignments
+        private final int[] order;                               // Scratch volunteer order for random assignments
+        private final int[] preferenceOrder;                     // Scratch copy of one volunteer's preferences, shuffled
+
+        private long randomState;                                // SplitMix64 state
+        private int generation;
+
+        private final long fingerprint;                          // Identifies volunteers and preferences in checkpoints
+        private CheckpointStore checkpointStore;                 // Null when checkpoints are disabled
+        private long checkpointIntervalNanos;
+        private long lastCheckpoint;
+
+        /**
+         * Constructor taking a snapshot of the volunteers and precomputing the
+         * preference rank of every volunteer/service pair.
+         *
+         * @param serviceList       list of service names available
+         * @param volunteers        snapshot of the volunteers keyed by their names, unchanged during the run
+         * @param assignmentService reference to service handling assignments and preferences
+         */
+        public SteadyStateGeneticAlgorithm(List<String> serviceList, Map<String, Volunteer> volunteers, AssignmentService assignmentService) {
+            this.serviceList = serviceList;
+            this.assignmentService = assignmentService;
+            this.scoring = assignmentService.getFitnessModel().scoring(serviceList, volunteers);
+
+            // Sorted names give every volunteer a stable gene position
+            List<String> names = new ArrayList<>(volunteers.keySet());
+            Collections.sort(names);
+            this.volunteerNames = names.toArray(new String[0]);
+            this.numVolunteers = volunteerNames.length;
+            this.numServices = serviceList.size();
+
+            Map<String, Integer> serviceIndex = new HashMap<>();
+            for (int s = 0; s < numServices; s++) {
+                serviceIndex.put(serviceList.get(s), s);
+            }
+
+            // Bin 0 is unassigned, bin r + 1 is preference rank r, the last bin is unpreferred
+            this.numBins = scoring.getUnpreferredRank() + 2;
+            this.binCost = new int[numBins];
+            for (int b = 1; b < numBins - 1; b++) {
+                binCost[b] = b - 1;
+            }
+            binCost[numBins - 1] = UNPREFERRED_PENALTY;
+
+            // Column 0 of each row is the unassigned bin, so gene + 1 indexes the table
+            this.costStride = numServices + 1;
+            this.bins = new int[numVolunteers * costStride];
+            this.preferenceIndexes = new int[numVolunteers][];
+            this.volunteerList = new ArrayList<>(numVolunteers);
+            for (int v = 0; v < numVolunteers; v++) {
+                Volunteer volunteer = volunteers.get(volunteerNames[v]);
+                volunteerList.add(volunteer);
+                List<String> prefs = volunteer.getPreferences();
+                if (prefs == null) {
+                    prefs = List.of();
+                }
+
+                // Same ranking as Chromosome: rank of the service, or unpreferred
+                for (int s = 0; s < numServices; s++) {
+                    int rank = prefs.indexOf(serviceList.get(s));
+                    bins[v * costStride + s + 1] = rank == -1 ? numBins - 1 : rank + 1;
+                }
+                preferenceIndexes[v] = prefs.stream()
+                        .map(serviceIndex::get)
+                        .filter(Objects::nonNull)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+
+            // The unassigned slot never counts towards the staffing deficit
+            this.minStaffing = new int[costStride];
+            System.arraycopy(scoring.getMinimums(), 0, minStaffing, 1, numServices);
+            minStaffing[0] = Integer.MIN_VALUE;
+
+            this.genes = new int[POPULATION_SIZE * numVolunteers];
+            this.histograms = new int[POPULATION_SIZE * numBins];
+            this.staffing = new int[POPULATION_SIZE * costStride];
+            this.dissatisfaction = new int[POPULATION_SIZE];
+            this.deficit = new int[POPULATION_SIZE];
+            this.fitness = new long[POPULATION_SIZE];
+            this.child = new int[numVolunteers];
+            this.childHistogram = new int[numBins];
+            this.childStaffing = new int[costStride];
+            this.serviceLoad = new int[numServices];
+            this.order = new int[numVolunteers];
+            this.preferenceOrder = new int[Arrays.stream(preferenceIndexes).mapToInt(p -> p.length).max().orElse(0)];
+            this.randomState = new Random().nextLong();
+
+            // Names and bin table fully determine what the genes mean
+            long hash = serviceList.hashCode();
+            for (String name : volunteerNames) {
+                hash = 31 * hash + name.hashCode();
+            }
+            for (int b : bins) {
+                hash = 31 * hash + b;
+            }
+            this.fingerprint = hash;
+        }
+
+        /**
+         * Enables checkpoints for the next run. The run resumes from the
+         * store's latest checkpoint if it belongs to the same volunteers and
+         * preferences, writes a checkpoint whenever the interval has passed,
+         * and clears the checkpoint once finished.
+         *
+         * @param checkpointStore  store for the checkpoint file
+         * @param intervalMillis   minimum time between two checkpoints
+         */
+        public void enableCheckpoints(CheckpointStore checkpointStore, long intervalMillis) {
+            this.checkpointStore = checkpointStore;
+            this.checkpointIntervalNanos = intervalMillis * 1_000_000L;
+        }
+
+        /**
+         * Runs the genetic algorithm to find an optimal assignment.
+         *
+         * @return best Chromosome (assignment) found after NUM_GENERATIONS
+         */
+        public Chromosome run() {
+            if (checkpointStore == null || !restore()) {
+                initialize();
+            }
+            openCheckpoints();
+
+            while (generation < GeneticAlgorithm.NUM_GENERATIONS) {
+                nextGeneration();
+                if (checkpointStore != null && System.nanoTime() - lastCheckpoint >= checkpointIntervalNanos) {
+                    checkpoint();
+                }
+            }
+
+            if (checkpointStore != null) {
+                checkpointStore.clear();
+                closeCheckpoints();
+            }
+            return toChromosome(bestIndex());
+        }
+
+        /**
+         * Restores the population, generation and RNG state from the latest checkpoint.
+         *
+         * @return true if a matching checkpoint was found
+         */
+        boolean restore() {
+            try {
+                Optional<CheckpointStore.Checkpoint> latest = checkpointStore.load();
+                if (latest.isEmpty() || latest.get().getFingerprint() != fingerprint
+                        || latest.get().getGenes().length != genes.length) {
+                    return false;
+                }
+
+                CheckpointStore.Checkpoint checkpoint = latest.get();
+                System.arraycopy(checkpoint.getGenes(), 0, genes, 0, genes.length);
+                generation = checkpoint.getGeneration();
+                randomState = checkpoint.getRandomState();
+                for (int row = 0; row < POPULATION_SIZE; row++) {
+                    evaluate(row);
+                }
+                System.out.println("Resuming optimization from checkpoint at generation " + generation);
+                return true;
+            } catch (IOException e) {
+                System.err.println("Could not read checkpoint: " + e.getMessage());
+                return false;
+            }
+        }
+
+        /**
+         * Creates the checkpoint file for this run and writes the starting state.
+         * Failures disable checkpoints instead of failing the run.
+         */
+        void openCheckpoints() {
+            if (checkpointStore == null) {
+                return;
+            }
+            try {
+                checkpointStore.open(volunteerList, POPULATION_SIZE);
+                checkpoint();
+            } catch (IOException e) {
+                System.err.println("Checkpoints disabled: " + e.getMessage());
+                closeCheckpoints();
+            }
+        }
+
+        /**
+         * Writes the current population, generation and RNG state.
+         */
+        private void checkpoint() {
+            checkpointStore.save(fingerprint, generation, randomState, genes);
+            lastCheckpoint = System.nanoTime();
+        }
+
+        private void closeCheckpoints() {
+            try {
+                checkpointStore.close();
+            } catch (IOException e) {
+                System.err.println("Could not close checkpoint file: " + e.getMessage());
+            }
+            checkpointStore = null;
+        }
+
+        /**
+         * Fills the population with random valid assignments and resets the generation counter.
+         */
+        void initialize() {
+            generation = 0;
+            for (int row = 0; row < POPULATION_SIZE; row++) {
+                randomAssignment(row);
+                evaluate(row);
+            }
+        }
+
+        /**
+         * Produces one generation's worth of offspring, each replacing the
+         * worst individual if it is at least as fit. Allocates nothing.
+         */
+        void nextGeneration() {
+            for (int i = 0; i < OFFSPRING_PER_GENERATION; i++) {
+                int parent1 = select();
+                int parent2 = select();
+                crossover(parent1, parent2);
+                mutate();
+                childFitness = score(childHistogram, 0, childDissatisfaction, childDeficit);
+                replaceWorst();
+            }
+            generation++;
+        }
+
+        /**
+         * Writes a random assignment into a population row, preferring the
+         * volunteer's own choices while service capacity allows.
+         *
+         * @param row population row to fill
+         */
+        private void randomAssignment(int row) {
+            int base = row * numVolunteers;
+            Arrays.fill(serviceLoad, 0);
+
+            // Shuffle volunteers to create variety in assignments
+            for (int v = 0; v < numVolunteers; v++) {
+                order[v] = v;
+            }
+            shuffle(order, numVolunteers);
+
+            for (int i = 0; i < numVolunteers; i++) {
+                int v = order[i];
+                int[] prefs = preferenceOrder;
+                System.arraycopy(preferenceIndexes[v], 0, prefs, 0, preferenceIndexes[v].length);
+                int assigned = UNASSIGNED;
+
+                // Try preferences in random order, then any service with capacity
+                for (int remaining = preferenceIndexes[v].length; remaining > 0 && assigned == UNASSIGNED; remaining--) {
+                    int pick = nextInt(remaining);
+                    int s = prefs[pick];
+                    prefs[pick] = prefs[remaining - 1];
+                    prefs[remaining - 1] = s;
+                    if (serviceLoad[s] < CAPACITY) {
+                        assigned = s;
+                    }
+                }
+                for (int s = 0; s < numServices && assigned == UNASSIGNED; s++) {
+                    if (serviceLoad[s] < CAPACITY) {
+                        assigned = s;
+                    }
+                }
+
+                if (assigned != UNASSIGNED) {
+                    serviceLoad[assigned]++;
+                }
+                genes[base + v] = assigned;
+            }
+        }
+
+        /**
+         * Computes the histogram, staffing counts and fitness of a population row from scratch.
+         *
+         * @param row population row
+         */
+        void evaluate(int row) {
+            int base = row * numVolunteers;
+            int histogramBase = row * numBins;
+            int staffingBase = row * costStride;
+            Arrays.fill(histograms, histogramBase, histogramBase + numBins, 0);
+            Arrays.fill(staffing, staffingBase, staffingBase + costStride, 0);
+
+            int total = 0;
+            for (int v = 0; v < numVolunteers; v++) {
+                int s = genes[base + v];
+                int bin = bins[v * costStride + s + 1];
+                total += binCost[bin];
+                histograms[histogramBase + bin]++;
+                staffing[staffingBase + s + 1]++;
+            }
+
+            int missing = 0;
+            for (int slot = 1; slot < costStride; slot++) {
+                missing += Math.max(0, minStaffing[slot] - staffing[staffingBase + slot]);
+            }
+
+            dissatisfaction[row] = total;
+            deficit[row] = missing;
+            fitness[row] = score(histograms, histogramBase, total, missing);
+        }
+
+        /**
+         * Combines the objectives of one row. Only scans the fixed number of
+         * histogram bins, independent of the number of volunteers.
+         *
+         * @param histogram      array holding the rank histogram
+         * @param histogramBase  offset of the histogram in the array
+         * @param total          total dissatisfaction
+         * @param missing        staffing deficit
+         * @return fitness score
+         */
+        private long score(int[] histogram, int histogramBase, int total, int missing) {
+            int worstBin = numBins - 1;
+            while (worstBin > 0 && histogram[histogramBase + worstBin] == 0) {
+                worstBin--;
+            }
+            int worstRank = Math.max(worstBin - 1, 0);
+            int unpreferred = histogram[histogramBase + numBins - 1];
+            return scoring.score(total, worstRank, unpreferred, missing);
+        }
+
+        /**
+         * Selects a population row using tournament selection.
+         *
+         * @return selected row
+         */
+        private int select() {
+            int a = nextInt(POPULATION_SIZE);
+            int b = nextInt(POPULATION_SIZE);
+            return fitness[a] < fitness[b] ? a : b;
+        }
+
+        /**
+         * Builds the child from two parents with uniform crossover.
+         * The child starts as a copy of the first parent, so its objectives only
+         * need adjusting for the genes taken from the second parent.
+         * Volunteers unassigned in either parent keep the first parent's gene,
+         * as do volunteers whose other service is already full in the child.
+         * The gene is chosen without a branch on the unpredictable coin flip;
+         * objectives are only updated where the chosen gene differs, which
+         * becomes rare as the population converges.
+         *
+         * @param parent1 first parent row
+         * @param parent2 second parent row
+         */
+        private void crossover(int parent1, int parent2) {
+            int base2 = parent2 * numVolunteers;
+            System.arraycopy(genes, parent1 * numVolunteers, child, 0, numVolunteers);
+            System.arraycopy(histograms, parent1 * numBins, childHistogram, 0, numBins);
+            System.arraycopy(staffing, parent1 * costStride, childStaffing, 0, costStride);
+            childDissatisfaction = dissatisfaction[parent1];
+            childDeficit = deficit[parent1];
+
+            long bits = 0;
+            for (int v = 0; v < numVolunteers; v++) {
+                // One random long supplies 64 coin flips
+                if ((v & 63) == 0) {
+                    bits = nextLong();
+                }
+                int current = child[v];
+                int other = genes[base2 + v];
+                int s = (bits & 1) != 0 & current != UNASSIGNED & other != UNASSIGNED
+                        & childStaffing[other + 1] < CAPACITY ? other : current;
+                if (s != current) {
+                    setChildGene(v, s);
+                }
+                bits >>>= 1;
+            }
+        }
+
+        /**
+         * Reassigns each assigned volunteer of the child to a random service
+         * with probability MUTATION_RATE, unless that service is full.
+         * Jumps straight to the next mutated volunteer using geometrically
+         * distributed gaps.
+         */
+        private void mutate() {
+            for (int v = mutationGap(); v < numVolunteers; v += 1 + mutationGap()) {
+                if (child[v] != UNASSIGNED) {
+                    int s = nextInt(numServices);
+                    if (childStaffing[s + 1] < CAPACITY) {
+                        setChildGene(v, s);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Changes one gene of the child and updates its dissatisfaction, rank
+         * histogram, staffing counts and staffing deficit in O(1).
+         * Setting a gene to its current value leaves everything unchanged.
+         *
+         * @param v       volunteer index
+         * @param service new service index
+         */
+        private void setChildGene(int v, int service) {
+            int current = child[v];
+            int offset = v * costStride + 1;
+            int oldBin = bins[offset + current];
+            int newBin = bins[offset + service];
+
+            childDissatisfaction += binCost[newBin] - binCost[oldBin];
+            childHistogram[oldBin]--;
+            childHistogram[newBin]++;
+
+            // A service falling below its minimum adds to the deficit, one reaching it removes from it
+            if (--childStaffing[current + 1] < minStaffing[current + 1]) {
+                childDeficit++;
+            }
+            if (childStaffing[service + 1]++ < minStaffing[service + 1]) {
+                childDeficit--;
+            }
+            child[v] = service;
+        }
+
+        /**
+         * Copies the child over the worst individual if it is at least as fit.
+         */
+        private void replaceWorst() {
+            int worst = 0;
+            for (int row = 1; row < POPULATION_SIZE; row++) {
+                if (fitness[row] > fitness[worst]) {
+                    worst = row;
+                }
+            }
+            if (childFitness <= fitness[worst]) {
+                System.arraycopy(child, 0, genes, worst * numVolunteers, numVolunteers);
+                System.arraycopy(childHistogram, 0, histograms, worst * numBins, numBins);
+                System.arraycopy(childStaffing, 0, staffing, worst * costStride, costStride);
+                dissatisfaction[worst] = childDissatisfaction;
+                deficit[worst] = childDeficit;
+                fitness[worst] = childFitness;
+            }
+        }
+
+        /**
+         * @param row population row
+         * @return fitness of the row as maintained by the incremental updates
+         */
+        long fitnessOf(int row) {
+            return fitness[row];
+        }
+
+        /**
+         * @return number of generations produced so far
+         */
+        int getGeneration() {
+            return generation;
+        }
+
+        /**
+         * @return row of the fittest individual
+         */
+        int bestIndex() {
+            int best = 0;
+            for (int row = 1; row < POPULATION_SIZE; row++) {
+                if (fitness[row] < fitness[best]) {
+                    best = row;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Converts a population row to a Chromosome keyed by volunteer name.
+         *
+         * @param row population row
+         * @return Chromosome with the row's assignment
+         */
+        Chromosome toChromosome(int row) {
+            int base = row * numVolunteers;
+            Map<String, String> assignment = new HashMap<>();
+            for (int v = 0; v < numVolunteers; v++) {
+                int s = genes[base + v];
+                if (s != UNASSIGNED) {
+                    assignment.put(volunteerNames[v], serviceList.get(s));
+                }
+            }
+            return new Chromosome(assignmentService, assignment, scoring);
+        }
+
+        /**
+         * Number of volunteers skipped before the next mutation.
+         */
+        private int mutationGap() {
+            double gap = Math.log(1 - nextDouble()) / LOG_KEEP;
+            return (int) Math.min(gap, numVolunteers);
+        }
+
+        /**
+         * Fisher-Yates shuffle of the first length entries.
+         */
+        private void shuffle(int[] values, int length) {
+            for (int i = length - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                int tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+        }
+
+        // SplitMix64 generator; its whole state is one long
+        private long nextLong() {
+            long z = (randomState += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        private int nextInt(int bound) {
+            return (int) (((nextLong() >>> 32) * bound) >>> 32);
+        }
+
+        private double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
         }
     }
 }
@@ -0,0 +1,45 @@
+package org.example.assignmentsystem;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Represents the service a single volunteer is assigned to.
+ */
+@Getter
+@Setter
+public class VolunteerAssignment {
+
+    /**
+     * The volunteer's name.
+     */
+    private String volunteerName;
+
+    /**
+     * Name of the assigned service.
+     */
+    private String serviceName;
+
+    /**
+     * Version of the result this assignment belongs to.
+     */
+    private long version;
+
+    /**
+     * Default constructor required for JSON serialization/deserialization.
+     */
+    public VolunteerAssignment() {}
+
+    /**
+     * Constructs a volunteer assignment.
+     *
+     * @param volunteerName the volunteer's name
+     * @param serviceName the assigned service
+     * @param version version of the result
+     */
+    public VolunteerAssignment(String volunteerName, String serviceName, long version) {
+        this.volunteerName = volunteerName;
+        this.serviceName = serviceName;
+        this.version = version;
+    }
+}
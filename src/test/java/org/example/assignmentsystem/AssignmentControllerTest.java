@@ -0,0 +1,96 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssignmentControllerTest {
+
+    private AssignmentService assignmentService;
+    private AssignmentController controller;
+
+    @BeforeEach
+    void setUp() {
+        assignmentService = new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "generational", "", 0);
+        assignmentService.savePreferences(new Volunteer("Alice", List.of("Food", "Reception")));
+        assignmentService.savePreferences(new Volunteer("Bob", List.of("Security", "Food")));
+        controller = new AssignmentController(assignmentService);
+    }
+
+    @Test
+    void changesSinceCurrentVersionAreEmpty() {
+        assignmentService.runOptimization();
+        long current = assignmentService.getCurrentResult().getVersion();
+
+        AssignmentChanges changes = controller.getAssignmentChanges(current).getBody();
+
+        assertFalse(changes.isFullResult());
+        assertEquals(current, changes.getToVersion());
+        assertTrue(changes.getChanges().isEmpty());
+    }
+
+    @Test
+    void unknownVersionReturnsFullResult() {
+        assignmentService.runOptimization();
+        long current = assignmentService.getCurrentResult().getVersion();
+
+        AssignmentChanges changes = controller.getAssignmentChanges(current + 1000).getBody();
+
+        assertTrue(changes.isFullResult());
+        assertEquals(assignmentService.getCurrentResult().getVolunteerToService(), changes.getChanges());
+    }
+
+    @Test
+    void evictedVersionReturnsFullResult() {
+        assignmentService.runOptimization();
+        long first = assignmentService.getCurrentResult().getVersion();
+        assertFalse(controller.getAssignmentChanges(first).getBody().isFullResult());
+
+        // The history keeps the last 8 results
+        for (int i = 0; i < 8; i++) {
+            assignmentService.runOptimization();
+        }
+
+        assertTrue(controller.getAssignmentChanges(first).getBody().isFullResult());
+    }
+
+    @Test
+    void serviceIsEmptyBeforeFirstOptimization() {
+        ResponseEntity<AssignmentPage> response = controller.getServiceAssignments("Reception", 0, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getAssignedVolunteers().isEmpty());
+        assertEquals(0, response.getBody().getTotalVolunteers());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getServiceAssignments("Kitchen", 0, 10).getStatusCode());
+    }
+
+    @Test
+    void invalidPagingIsRejected() {
+        assignmentService.runOptimization();
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getServiceAssignments("Food", -1, 10).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getServiceAssignments("Food", 0, 0).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.getServiceAssignments("Food", 0, AssignmentController.MAX_PAGE_SIZE + 1).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                controller.getServiceAssignments("Food", 0, AssignmentController.MAX_PAGE_SIZE).getStatusCode());
+    }
+
+    @Test
+    void pagePastTheEndKeepsTotals() {
+        assignmentService.runOptimization();
+        int assigned = assignmentService.getCurrentResult().volunteersOf("Food").orElseThrow().size();
+
+        AssignmentPage page = controller.getServiceAssignments("Food", 100, 1).getBody();
+
+        assertTrue(page.getAssignedVolunteers().isEmpty());
+        assertEquals(assigned, page.getTotalPages());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssignmentResultTest {
+
+    @Test
+    void changesSinceReportsMovedAddedAndRemovedVolunteers() {
+        AssignmentResult older = new AssignmentResult(1, Map.of(
+                "Food", List.of("Alice", "Bob"),
+                "Security", List.of("Carol")));
+        AssignmentResult newer = new AssignmentResult(2, Map.of(
+                "Food", List.of("Alice", "Carol"),
+                "Security", List.of("Dave")));
+
+        Map<String, String> changes = newer.changesSince(older);
+
+        assertEquals(3, changes.size());
+        assertEquals("Food", changes.get("Carol"));
+        assertEquals("Security", changes.get("Dave"));
+        assertTrue(changes.containsKey("Bob"));
+        assertNull(changes.get("Bob"));
+    }
+
+    @Test
+    void changesSinceIsComputedOncePerVersion() {
+        AssignmentResult older = new AssignmentResult(1, Map.of("Food", List.of("Alice")));
+        AssignmentResult newer = new AssignmentResult(2, Map.of("Security", List.of("Alice")));
+
+        assertSame(newer.changesSince(older), newer.changesSince(older));
+    }
+
+    @Test
+    void changesSinceSameResultIsEmpty() {
+        AssignmentResult result = new AssignmentResult(1, Map.of("Food", List.of("Alice")));
+
+        assertTrue(result.changesSince(result).isEmpty());
+    }
+
+    @Test
+    void pagePastTheEndIsEmpty() {
+        AssignmentPage page = new AssignmentPage("Food", List.of("Alice", "Bob", "Carol"), 5, 2, 1);
+
+        assertTrue(page.getAssignedVolunteers().isEmpty());
+        assertEquals(3, page.getTotalVolunteers());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    void lastPageHoldsTheRemainder() {
+        AssignmentPage page = new AssignmentPage("Food", List.of("Alice", "Bob", "Carol"), 1, 2, 1);
+
+        assertEquals(List.of("Carol"), page.getAssignedVolunteers());
+        assertEquals(2, page.getTotalPages());
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssignmentServiceTest {
+
+    @Test
+    void unknownEngineIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "steady_state", "", 0));
+    }
+
+    @Test
+    void steadyStateRunAssignsEachVolunteerOnceWithinCapacity() {
+        AssignmentService assignmentService = new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "steady-state", "", 0);
+        Set<String> submitted = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            assignmentService.savePreferences(new Volunteer("Volunteer" + i, List.of("Food", "Medical", "Reception")));
+            submitted.add("Volunteer" + i);
+        }
+
+        Set<String> assigned = new HashSet<>();
+        for (ServiceAssignment assignment : assignmentService.runOptimization()) {
+            assertTrue(assignment.getAssignedVolunteers().size() <= GeneticAlgorithmService.GeneticAlgorithm.MAX_VOLUNTEERS_PER_SERVICE,
+                    assignment.getServiceName());
+            for (String volunteer : assignment.getAssignedVolunteers()) {
+                assertTrue(submitted.contains(volunteer), volunteer);
+                assertTrue(assigned.add(volunteer), volunteer + " assigned twice");
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CheckpointStoreTest {
+
+    private static final List<String> SERVICES = List.of("Reception", "Security", "Food");
+    private static final int POPULATION_SIZE = 2;
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private List<Volunteer> volunteers;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("ga.checkpoint");
+        volunteers = List.of(
+                new Volunteer("Alice", List.of("Food", "Reception")),
+                new Volunteer("Bob", List.of("Security")),
+                new Volunteer("Carol", List.of()));
+    }
+
+    @Test
+    void loadReturnsSavedCheckpoint() throws IOException {
+        int[] genes = {0, 1, 2, 2, -1, 0};
+        try (CheckpointStore store = new CheckpointStore(path)) {
+            store.open(volunteers, POPULATION_SIZE);
+            store.save(42L, 7, 123456789L, genes);
+        }
+
+        CheckpointStore.Checkpoint checkpoint = new CheckpointStore(path).load().orElseThrow();
+        assertEquals(42L, checkpoint.getFingerprint());
+        assertEquals(7, checkpoint.getGeneration());
+        assertEquals(123456789L, checkpoint.getRandomState());
+        assertArrayEquals(genes, checkpoint.getGenes());
+        assertEquals(List.of("Alice", "Bob", "Carol"), new ArrayList<>(checkpoint.getVolunteers().keySet()));
+        assertEquals(List.of("Food", "Reception"), checkpoint.getVolunteers().get("Alice").getPreferences());
+    }
+
+    @Test
+    void loadPrefersNewerSlot() throws IOException {
+        saveTwice();
+
+        assertEquals(2, new CheckpointStore(path).load().orElseThrow().getGeneration());
+    }
+
+    @Test
+    void loadFallsBackWhenNewerSlotHasBadChecksum() throws IOException {
+        saveTwice();
+        // Flip a gene of the newer (second) slot without updating its CRC
+        writeInt(slotOffset(1) + 32, 2);
+
+        assertEquals(1, new CheckpointStore(path).load().orElseThrow().getGeneration());
+    }
+
+    @Test
+    void loadFallsBackWhenNewerSlotHasZeroSequence() throws IOException {
+        saveTwice();
+        writeLong(slotOffset(1), 0);
+
+        assertEquals(1, new CheckpointStore(path).load().orElseThrow().getGeneration());
+    }
+
+    @Test
+    void loadIgnoresClearedOrMissingCheckpoint() throws IOException {
+        assertTrue(new CheckpointStore(path).load().isEmpty());
+
+        try (CheckpointStore store = new CheckpointStore(path)) {
+            store.open(volunteers, POPULATION_SIZE);
+            store.save(42L, 1, 1L, new int[6]);
+            store.clear();
+        }
+        assertTrue(new CheckpointStore(path).load().isEmpty());
+    }
+
+    @Test
+    void reopeningMatchingFileKeepsCheckpoint() throws IOException {
+        saveTwice();
+        try (CheckpointStore store = new CheckpointStore(path)) {
+            store.open(volunteers, POPULATION_SIZE);
+            assertEquals(2, store.load().orElseThrow().getGeneration());
+
+            // The next save replaces the older slot only
+            store.save(42L, 3, 1L, new int[6]);
+        }
+        assertEquals(3, new CheckpointStore(path).load().orElseThrow().getGeneration());
+        writeLong(slotOffset(0), 0);
+        assertEquals(2, new CheckpointStore(path).load().orElseThrow().getGeneration());
+    }
+
+    @Test
+    void restoreResumesOnlyMatchingVolunteers() throws IOException {
+        AssignmentService assignmentService = new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "steady-state", "", 0);
+        volunteers.forEach(assignmentService::savePreferences);
+
+        GeneticAlgorithmService.SteadyStateGeneticAlgorithm interrupted =
+                new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(SERVICES, assignmentService.getVolunteers(), assignmentService);
+        try (CheckpointStore store = new CheckpointStore(path)) {
+            interrupted.enableCheckpoints(store, Long.MAX_VALUE);
+            interrupted.initialize();
+            for (int i = 0; i < 3; i++) {
+                interrupted.nextGeneration();
+            }
+            // Closing waits for the background write, like a checkpoint completed before a crash
+            interrupted.openCheckpoints();
+        }
+
+        GeneticAlgorithmService.SteadyStateGeneticAlgorithm resumed = newAlgorithm(assignmentService.getVolunteers(), assignmentService);
+        assertTrue(resumed.restore());
+        assertEquals(3, resumed.getGeneration());
+
+        // Same names, different preferences: the checkpoint no longer applies
+        Map<String, Volunteer> changed = new HashMap<>(assignmentService.getVolunteers());
+        changed.put("Carol", new Volunteer("Carol", List.of("Security")));
+        GeneticAlgorithmService.SteadyStateGeneticAlgorithm fresh = newAlgorithm(changed, assignmentService);
+        assertFalse(fresh.restore());
+        assertEquals(0, fresh.getGeneration());
+    }
+
+    private GeneticAlgorithmService.SteadyStateGeneticAlgorithm newAlgorithm(Map<String, Volunteer> volunteers,
+                                                                          AssignmentService assignmentService) {
+        GeneticAlgorithmService.SteadyStateGeneticAlgorithm ga =
+                new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(SERVICES, volunteers, assignmentService);
+        ga.enableCheckpoints(new CheckpointStore(path), Long.MAX_VALUE);
+        return ga;
+    }
+
+    /**
+     * Saves generation 1 into the first slot and generation 2 into the second.
+     */
+    private void saveTwice() throws IOException {
+        try (CheckpointStore store = new CheckpointStore(path)) {
+            store.open(volunteers, POPULATION_SIZE);
+            store.save(42L, 1, 1L, new int[]{0, 0, 0, 0, 0, 0});
+            store.save(42L, 2, 2L, new int[]{1, 1, 1, 1, 1, 1});
+        }
+    }
+
+    /**
+     * Slots are at the end of the file; each holds a 32 byte header and the genes.
+     */
+    private long slotOffset(int slot) throws IOException {
+        long slotBytes = 32 + 4L * volunteers.size() * POPULATION_SIZE;
+        return Files.size(path) - (2 - slot) * slotBytes;
+    }
+
+    private void writeInt(long position, int value) throws IOException {
+        write(position, ByteBuffer.allocate(Integer.BYTES).putInt(0, value));
+    }
+
+    private void writeLong(long position, long value) throws IOException {
+        write(position, ByteBuffer.allocate(Long.BYTES).putLong(0, value));
+    }
+
+    private void write(long position, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(bytes, position);
+        }
+    }
+}
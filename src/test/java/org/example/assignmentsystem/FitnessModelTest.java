@@ -0,0 +1,39 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FitnessModelTest {
+
+    private static final List<String> SERVICES = List.of("Reception", "Security", "Food");
+
+    @Test
+    void staffingDeficitUsesPerServiceMinimums() {
+        FitnessModel model = new FitnessModel("weighted", 0, 0, 0, 1, List.of("dissatisfaction"), 1,
+                List.of("Reception:2", " Security : 0 "));
+        Map<String, Volunteer> volunteers = Map.of("Alice", new Volunteer("Alice", List.of("Reception")));
+        FitnessModel.Scoring scoring = model.scoring(SERVICES, volunteers);
+
+        // Reception misses 1 of 2, Security needs none, Food misses 1 of the default 1
+        assertEquals(2, scoring.evaluate(Map.of("Alice", "Reception"), volunteers));
+        // Reception misses both, Food misses 1
+        assertEquals(3, scoring.evaluate(Map.of("Alice", "Security"), volunteers));
+    }
+
+    @Test
+    void invalidPerServiceMinimumsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FitnessModel("weighted", 1, 0, 0, 1,
+                List.of("dissatisfaction"), 0, List.of("Reception")));
+        assertThrows(IllegalArgumentException.class, () -> new FitnessModel("weighted", 1, 0, 0, 1,
+                List.of("dissatisfaction"), 0, List.of("Reception:-1")));
+
+        FitnessModel unknownService = new FitnessModel("weighted", 1, 0, 0, 1,
+                List.of("dissatisfaction"), 0, List.of("Kitchen:2"));
+        assertThrows(IllegalArgumentException.class, () -> unknownService.scoring(SERVICES, Map.of()));
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.assignmentsystem;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SteadyStateGeneticAlgorithmTest {
+
+    private static final List<String> SERVICES = List.of(
+            "Reception", "Security", "Food", "Transport", "Cleaning",
+            "Logistics", "Guiding", "Medical", "Registration", "HelpDesk"
+    );
+
+    private static final List<String> ORDER = List.of("staffing-deficit", "worst-rank", "unpreferred", "dissatisfaction");
+
+    private static final List<String> MIN_STAFFING_PER_SERVICE = List.of("Reception:3", "Medical:0", "Food:1");
+
+    private static final int GENERATIONS = 20;
+
+    @Test
+    void weightedFitnessMatchesFullEvaluation() {
+        assertIncrementalFitnessMatches(new FitnessModel("weighted", 3, 7, 11, 13, ORDER, 2, MIN_STAFFING_PER_SERVICE));
+    }
+
+    @Test
+    void lexicographicFitnessMatchesFullEvaluation() {
+        // Staffing deficit last, so offspring with a changed deficit still enter the population
+        List<String> order = List.of("dissatisfaction", "unpreferred", "worst-rank", "staffing-deficit");
+        assertIncrementalFitnessMatches(new FitnessModel("lexicographic", 1, 0, 0, 0, order, 2, MIN_STAFFING_PER_SERVICE));
+    }
+
+    @Test
+    void runKeepsEveryServiceWithinCapacity() {
+        AssignmentService assignmentService = new AssignmentService(Runnable::run, FitnessModel.DEFAULT, "steady-state", "", 0);
+        Map<String, Volunteer> volunteers = volunteers();
+
+        Chromosome best = new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(SERVICES, volunteers, assignmentService).run();
+
+        Map<String, Integer> staffing = new HashMap<>();
+        best.getVolunteerToService().forEach((volunteer, service) -> {
+            assertTrue(volunteers.containsKey(volunteer), volunteer);
+            assertTrue(SERVICES.contains(service), service);
+            staffing.merge(service, 1, Integer::sum);
+        });
+        staffing.values().forEach(count ->
+                assertTrue(count <= GeneticAlgorithmService.GeneticAlgorithm.MAX_VOLUNTEERS_PER_SERVICE));
+        // 40 volunteers for 30 places: every place is filled
+        assertEquals(SERVICES.size() * GeneticAlgorithmService.GeneticAlgorithm.MAX_VOLUNTEERS_PER_SERVICE,
+                best.getVolunteerToService().size());
+    }
+
+    /**
+     * Runs generations and checks after each one that every row's running
+     * fitness equals a recomputation from scratch and the Chromosome's score.
+     */
+    private void assertIncrementalFitnessMatches(FitnessModel fitnessModel) {
+        AssignmentService assignmentService = new AssignmentService(Runnable::run, fitnessModel, "steady-state", "", 0);
+        Map<String, Volunteer> volunteers = volunteers();
+        GeneticAlgorithmService.SteadyStateGeneticAlgorithm ga =
+                new GeneticAlgorithmService.SteadyStateGeneticAlgorithm(SERVICES, volunteers, assignmentService);
+        FitnessModel.Scoring scoring = fitnessModel.scoring(SERVICES, volunteers);
+
+        ga.initialize();
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+            ga.nextGeneration();
+            for (int row = 0; row < GeneticAlgorithmService.GeneticAlgorithm.POPULATION_SIZE; row++) {
+                long incremental = ga.fitnessOf(row);
+                Chromosome chromosome = ga.toChromosome(row);
+                assertEquals(scoring.evaluate(chromosome.getVolunteerToService(), volunteers), incremental,
+                        "generation " + generation + ", row " + row);
+                assertEquals(chromosome.getFitness(), incremental);
+
+                ga.evaluate(row);
+                assertEquals(incremental, ga.fitnessOf(row));
+            }
+        }
+    }
+
+    /**
+     * More volunteers than service capacity, so some stay unassigned,
+     * with 1 to 5 preferences each so ranks and unpreferred placements vary.
+     */
+    private static Map<String, Volunteer> volunteers() {
+        Random random = new Random(7);
+        List<String> services = new ArrayList<>(SERVICES);
+        Map<String, Volunteer> volunteers = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            Collections.shuffle(services, random);
+            String name = "Volunteer" + i;
+            volunteers.put(name, new Volunteer(name, List.copyOf(services.subList(0, 1 + random.nextInt(5)))));
+        }
+        return Map.copyOf(volunteers);
+    }
+}